@@ -1,6 +1,7 @@
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
@@ -14,13 +15,13 @@ import java.util.Scanner;
 public class DatabaseProcessing {
     private final MyBST<PeopleRecord> bst;
     private final MyHeap<PeopleRecord> heap;
-    private final MyHashmap<String, Integer> hashmap;
+    private final List<PeopleRecord> records; // Flat copy of the loaded records for column-wise passes
     private String filePath; // Variable to store the file path
 
     public DatabaseProcessing() {
         bst = new MyBST<>();
         heap = new MyHeap<>();
-        hashmap = new MyHashmap<>(100); // Assuming an initial capacity of 100
+        records = new ArrayList<>();
     }
 
     /**
@@ -47,6 +48,7 @@ public class DatabaseProcessing {
             );
             try {
                 bst.insert(record);
+                records.add(record);
             } catch (NullPointerException e) {
                 System.out.println("Null nodes cannot be loaded" + e);
             }
@@ -82,6 +84,39 @@ public class DatabaseProcessing {
         return sortedList;
     }
 
+    /**
+     * Sorts the PeopleRecords by the given keys, in order of precedence. String keys are
+     * ordered with a multi-key (3-way radix) quicksort and BIRTHDAY with an LSD radix sort
+     * on packed dates, so no PeopleRecord comparisons are made.
+     *
+     * @param keys The keys to sort by, most significant first.
+     * @return A sorted list of PeopleRecords.
+     * @throws IllegalArgumentException if no keys are given.
+     */
+    @SuppressWarnings("ClassEscapesDefinedScope")
+    public List<PeopleRecord> sort(SortKey... keys) {
+        if (keys.length == 0) {
+            throw new IllegalArgumentException("At least one sort key is required");
+        }
+        return new RecordSorter(records, keys).sort();
+    }
+
+    /**
+     * Groups the loaded PeopleRecords by the given keys, e.g. groupBy(SortKey.STATE, SortKey.COUNTY).
+     * The returned GroupBy counts every group in one parallel pass when count() or topK() is called.
+     *
+     * @param keys The keys whose values together identify a group.
+     * @return A GroupBy over the loaded records.
+     * @throws IllegalArgumentException if no keys are given.
+     */
+    @SuppressWarnings("ClassEscapesDefinedScope")
+    public GroupBy groupBy(SortKey... keys) {
+        if (keys.length == 0) {
+            throw new IllegalArgumentException("At least one group key is required");
+        }
+        return new GroupBy(records, keys);
+    }
+
     private void transferBSTtoHeap(MyBST.Node<PeopleRecord> node) {
         if (node != null) {
             heap.insert(node.data);
@@ -107,6 +142,7 @@ public class DatabaseProcessing {
             throw new ShortLengthException("Length is less than 3");
         }
 
+        MyHashmap<String, Integer> hashmap = new MyHashmap<>(100); // Local, so repeated and concurrent calls do not share counts
         Scanner scanner = new Scanner(new File(fileName));
 
         while (scanner.hasNext()) {
@@ -180,6 +216,19 @@ public class DatabaseProcessing {
                 System.out.println(dbProcessing.heap.remove());
             System.out.print("\n");
 
+            // Test sort by keys
+            List<PeopleRecord> byLocation = dbProcessing.sort(SortKey.STATE, SortKey.CITY, SortKey.BIRTHDAY);
+            System.out.println("Sorted by State, City, Birthday (first 5 entries): ");
+            for (int i = 0; i < Math.min(5, byLocation.size()); i++)
+                System.out.println(byLocation.get(i));
+            System.out.print("\n");
+
+            // Test groupBy
+            System.out.println("Top 5 States: " + dbProcessing.groupBy(SortKey.STATE).topK(5));
+            System.out.println("Top 5 Email Domains: " + dbProcessing.groupBy(SortKey.EMAIL_DOMAIN).topK(5));
+            System.out.println("Birth Decades: " + dbProcessing.groupBy(SortKey.BIRTH_DECADE).count());
+            System.out.print("\n");
+
             // Test getMostFrequentWords
             List<MyHashmap.MapEntry<String, Integer>> frequentWords = dbProcessing.getMostFrequentWords(dbProcessing.filePath, 5, 3);
             System.out.println("Frequent Words: " + frequentWords);
@@ -396,311 +445,176 @@ class MyHeap<T extends Comparable<T>> {
 }
 
 /**
- * MyHashmap is a generic hashmap implementation. It maps keys to values and
- * provides efficient data retrieval. This class handles collisions using quadratic probing
- * and supports resizing when the load factor threshold is exceeded.
+ * RecordSorter orders PeopleRecords by a list of SortKeys without comparing records.
+ * Each key's column is extracted once, then a permutation of record indices is sorted:
+ * string columns with a multi-key (3-way radix) quicksort and date columns with an LSD
+ * radix sort. Runs that tie on one key are then sorted by the next key.
  */
-@SuppressWarnings("ALL")
-class MyHashmap<K, V> {
-    private static final int DEFAULT_CAPACITY = 16; // Default initial capacity
-    private static final double LOAD_FACTOR_THRESHOLD = 0.75;
-    private MapEntry<K, V>[] entries;
-    private int capacity;
-    private int size;
-
-    // Default constructor
-    @SuppressWarnings("unchecked")
-    public MyHashmap() {
-        this.capacity = DEFAULT_CAPACITY;
-        this.entries = new MapEntry[DEFAULT_CAPACITY];
-        this.size = 0;
-    }
-
-    // Constructor with specified initial capacity
-    @SuppressWarnings("unchecked")
-    public MyHashmap(int capacity) {
-        this.capacity = capacity;
-        this.entries = new MapEntry[capacity];
-        this.size = 0;
-    }
-
-    // Method to add a PeopleRecord to the hashmap
-    public void put(K key, V value) {
-        if ((double) size / capacity >= LOAD_FACTOR_THRESHOLD) {
-            resize();
-        }
-
-        int index = getHashIndex(key);
-        int originalIndex = index;
-        int i = 1;
-
-        while (true) {
-            if (entries[index] == null || entries[index].key == null) {
-                entries[index] = new MapEntry<>(key, value);
-                size++;
-                return;
-            } else if (entries[index].key.equals(key)) {
-                // Replace existing value
-                entries[index].value = value;
-                return;
-            }
+class RecordSorter {
+    private static final int CUTOFF = 16; // Ranges this small use insertion sort
+    private static final int RADIX = 256; // Bucket count for the date radix sort
 
-            index = (originalIndex + i * i) % capacity; // Quadratic probing
-            i++;
+    private final List<PeopleRecord> records;
+    private final SortKey[] keys;
+    private final String[][] strings; // Extracted string columns, null for date keys
+    private final int[][] dates; // Packed date columns, null for string keys
+    private final int[] index; // Permutation of record indices being sorted
+    private final int[] aux; // Scratch space for the radix sort
 
-            if (i == capacity) {
-                // This should not happen if resizing works correctly
-                throw new RuntimeException("Hashmap full, cannot insert new key: " + key);
+    // Constructor
+    public RecordSorter(List<PeopleRecord> records, SortKey... keys) {
+        int n = records.size();
+        this.records = records;
+        this.keys = keys.clone();
+        this.strings = new String[keys.length][];
+        this.dates = new int[keys.length][];
+        for (int k = 0; k < keys.length; k++) {
+            if (keys[k].isDate()) {
+                dates[k] = new int[n];
+                for (int i = 0; i < n; i++) {
+                    dates[k][i] = SortKey.packDate(keys[k].extract(records.get(i)));
+                }
+            } else {
+                strings[k] = new String[n];
+                for (int i = 0; i < n; i++) {
+                    strings[k][i] = keys[k].extract(records.get(i));
+                }
             }
         }
+        this.index = new int[n];
+        for (int i = 0; i < n; i++) {
+            index[i] = i;
+        }
+        this.aux = new int[n];
     }
 
-    // Method to get a PeopleRecord by key (e.g., family name)
-    public V get(K key) {
-        int index = getHashIndex(key);
-        int originalIndex = index;
-        int i = 1;
-
-        while (entries[index] != null) {
-            if (entries[index].key != null && entries[index].key.equals(key)) {
-                return entries[index].value;
-            }
-            index = (originalIndex + i * i) % capacity; // Quadratic probing
-            if (index == originalIndex) {
-                break;
-            }
-            i++;
+    // Method to sort the records and return them in key order
+    public List<PeopleRecord> sort() {
+        sortRange(0, index.length, 0);
+        List<PeopleRecord> sorted = new ArrayList<>(index.length);
+        for (int i : index) {
+            sorted.add(records.get(i));
         }
-
-        return null; // Not found
+        return sorted;
     }
 
-    // Method to delete a PeopleRecord by key
-    public void delete(K key) {
-        int index = getHashIndex(key);
-        int originalIndex = index;
-        int i = 1;
-
-        while (entries[index] != null) {
-            if (entries[index].key != null && entries[index].key.equals(key)) {
-                entries[index] = new MapEntry<>(null, null); // Mark as deleted
-                size--;
-                return;
+    // Helper method to sort index[lo, hi) by keys[k] and then each tied run by the following keys
+    private void sortRange(int lo, int hi, int k) {
+        if (hi - lo < 2 || k == keys.length) {
+            return;
+        }
+        if (dates[k] != null) {
+            int[] column = dates[k];
+            radixSort(column, lo, hi);
+            int start = lo;
+            for (int i = lo + 1; i <= hi; i++) {
+                if (i == hi || column[index[i]] != column[index[start]]) {
+                    sortRange(start, i, k + 1);
+                    start = i;
+                }
             }
-            index = (originalIndex + i * i) % capacity; // Quadratic probing
-            if (index == originalIndex) {
-                break;
+        } else {
+            String[] column = strings[k];
+            quicksort(column, lo, hi - 1, 0);
+            int start = lo;
+            for (int i = lo + 1; i <= hi; i++) {
+                if (i == hi || !column[index[i]].equals(column[index[start]])) {
+                    sortRange(start, i, k + 1);
+                    start = i;
+                }
             }
-            i++;
         }
     }
 
-    // Method to resize
-    @SuppressWarnings("unchecked")
-    private void resize() {
-        int newCapacity = capacity * 2;
-        MapEntry<K, V>[] newEntries = (MapEntry<K, V>[]) new MapEntry[newCapacity];
-
-        for (MapEntry<K, V> entry : entries) {
-            if (entry != null && entry.key != null) {
-                int index = (entry.key.hashCode() & 0x7fffffff) % newCapacity;
-                while (newEntries[index] != null) {
-                    index = (index + 1) % newCapacity; // Simple linear probing for rehashing
-                }
-                newEntries[index] = entry;
+    // Multi-key quicksort of index[lo..hi] on the d-th character of the column
+    private void quicksort(String[] column, int lo, int hi, int d) {
+        if (hi - lo < CUTOFF) {
+            insertionSort(column, lo, hi, d);
+            return;
+        }
+        swap(lo, (lo + hi) >>> 1); // Middle pivot avoids the worst case on presorted input
+        int lt = lo;
+        int gt = hi;
+        int pivot = charAt(column[index[lo]], d);
+        int i = lo + 1;
+        while (i <= gt) {
+            int c = charAt(column[index[i]], d);
+            if (c < pivot) {
+                swap(lt++, i++);
+            } else if (c > pivot) {
+                swap(i, gt--);
+            } else {
+                i++;
             }
         }
-
-        entries = newEntries;
-        capacity = newCapacity;
-    }
-
-    // Method to compute the hash index
-    private int getHashIndex(K key) {
-        return (key.hashCode() & 0x7fffffff) % capacity;
-    }
-
-    // Method to check the number of records in the hashmap
-    public int size() {
-        return size;
+        quicksort(column, lo, lt - 1, d);
+        if (pivot >= 0) {
+            quicksort(column, lt, gt, d + 1);
+        }
+        quicksort(column, gt + 1, hi, d);
     }
 
-    // Method to get entry set
-    public List<MapEntry<K, V>> entrySet() {
-        List<MapEntry<K, V>> entryList = new ArrayList<>();
-        for (MapEntry<K, V> entry : entries) {
-            if (entry != null && entry.getKey() != null) {
-                entryList.add(entry);
+    // Helper method to insertion sort index[lo..hi], knowing the first d characters are equal
+    private void insertionSort(String[] column, int lo, int hi, int d) {
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && less(column[index[j]], column[index[j - 1]], d); j--) {
+                swap(j, j - 1);
             }
         }
-        return entryList;
     }
 
-    // Method to get value with default
-    public V getOrDefault(K key, V defaultValue) {
-        V value = get(key);
-        return (value != null) ? value : defaultValue;
-    }
-
-    static class MapEntry<K, V> {
-        K key;
-        V value;
-
-        MapEntry(K key, V value) {
-            this.key = key;
-            this.value = value;
-        }
-
-        public K getKey() {
-            return key;
-        }
-
-        public V getValue() {
-            return value;
-        }
-
-        @Override
-        public String toString() {
-            return key + "=" + value;
+    // Helper method to compare two strings from the d-th character onwards
+    private static boolean less(String a, String b, int d) {
+        int len = Math.min(a.length(), b.length());
+        for (int i = d; i < len; i++) {
+            char ca = a.charAt(i);
+            char cb = b.charAt(i);
+            if (ca != cb) {
+                return ca < cb;
+            }
         }
+        return a.length() < b.length();
     }
-}
 
-/**
- * PeopleRecord represents a record of an individual's personal and contact information.
- * It includes details like name, address, phone numbers, and email. This class
- * implements Comparable to allow sorting based on specified criteria.
- */
-@SuppressWarnings("ALL")
-class PeopleRecord implements Comparable<PeopleRecord> {
-    // Attributes
-    private String givenName;
-    private String familyName;
-    private String companyName;
-    private String address;
-    private String city;
-    private String county;
-    private String state;
-    private String zip;
-    private String phone1;
-    private String phone2;
-    private String email;
-    private String web;
-    private String birthday;
-
-    // References to child nodes in the tree
-    PeopleRecord left;
-    PeopleRecord right;
-
-    // Constructor
-    public PeopleRecord(String givenName, String familyName, String companyName,
-                        String address, String city, String county, String state,
-                        String zip, String phone1, String phone2, String email,
-                        String web, String birthday) {
-        this.givenName = givenName;
-        this.familyName = familyName;
-        this.companyName = companyName;
-        this.address = address;
-        this.city = city;
-        this.county = county;
-        this.state = state;
-        this.zip = zip;
-        this.phone1 = phone1;
-        this.phone2 = phone2;
-        this.email = email;
-        this.web = web;
-        this.birthday = birthday;
-        this.left = null;
-        this.right = null;
-    }
-
-    // Getters and Setters
-    public String getGivenName() { return givenName; }
-    public void setGivenName(String givenName) { this.givenName = givenName; }
-
-    public String getFamilyName() { return familyName; }
-    public void setFamilyName(String familyName) { this.familyName = familyName; }
-
-    public String getCompanyName() { return companyName; }
-    public void setCompanyName(String companyName) { this.companyName = companyName; }
-
-    public String getAddress() { return address; }
-    public void setAddress(String address) { this.address = address; }
-
-    public String getCity() { return city; }
-    public void setCity(String city) { this.city = city; }
-
-    public String getCounty() { return county; }
-    public void setCounty(String county) { this.county = county; }
-
-    public String getState() { return state; }
-    public void setState(String state) { this.state = state; }
-
-    public String getZip() { return zip; }
-    public void setZip(String zip) { this.zip = zip; }
-
-    public String getPhone1() { return phone1; }
-    public void setPhone1(String phone1) { this.phone1 = phone1; }
-
-    public String getPhone2() { return phone2; }
-    public void setPhone2(String phone2) { this.phone2 = phone2; }
-
-    public String getEmail() { return email; }
-    public void setEmail(String email) { this.email = email; }
-
-    public String getWeb() { return web; }
-    public void setWeb(String web) { this.web = web; }
-
-    public String getBirthday() { return birthday; }
-    public void setBirthday(String birthday) { this.birthday = birthday; }
-
-    // toString Method
-    @Override
-    public String toString() {
-        return "PeopleRecord{" +
-                "givenName='" + givenName + '\'' +
-                ", familyName='" + familyName + '\'' +
-                ", companyName='" + companyName + '\'' +
-                ", address='" + address + '\'' +
-                ", city='" + city + '\'' +
-                ", county='" + county + '\'' +
-                ", state='" + state + '\'' +
-                ", zip='" + zip + '\'' +
-                ", phone1='" + phone1 + '\'' +
-                ", phone2='" + phone2 + '\'' +
-                ", email='" + email + '\'' +
-                ", web='" + web + '\'' +
-                ", birthday='" + birthday + '\'' +
-                '}';
+    // Helper method to read the d-th character, or -1 past the end of the string
+    private static int charAt(String s, int d) {
+        return d < s.length() ? s.charAt(d) : -1;
     }
 
-    /**
-     * Compares this PeopleRecord with another PeopleRecord for order.
-     * Ordering is primarily based on the family name, then given name, and finally birthday.
-     *
-     * @param other The PeopleRecord to be compared.
-     * @return A negative integer, zero, or a positive integer as this object
-     *         is less than, equal to, or greater than the specified object.
-     */
-    @Override
-    public int compareTo(PeopleRecord other) {
-        int lastNameComparison = this.familyName.compareTo(other.familyName);
-        if (lastNameComparison == 0) {
-            // Use another field for secondary comparison if family names are the same
-            int givenNameComparison = this.givenName.compareTo(other.givenName);
-            if (givenNameComparison == 0) {
-                return this.birthday.compareTo(other.birthday);
+    // LSD radix sort of index[lo, hi) on a packed date column, one byte per pass
+    private void radixSort(int[] column, int lo, int hi) {
+        int n = hi - lo;
+        if (n <= CUTOFF) {
+            for (int i = lo + 1; i < hi; i++) {
+                for (int j = i; j > lo && column[index[j]] < column[index[j - 1]]; j--) {
+                    swap(j, j - 1);
+                }
             }
-            return givenNameComparison;
+            return;
         }
-        return lastNameComparison;
+        int[] count = new int[RADIX + 1];
+        for (int shift = 0; shift < Integer.SIZE; shift += 8) {
+            Arrays.fill(count, 0);
+            for (int i = lo; i < hi; i++) {
+                count[((column[index[i]] >>> shift) & (RADIX - 1)) + 1]++;
+            }
+            if (count[((column[index[lo]] >>> shift) & (RADIX - 1)) + 1] == n) {
+                continue; // Every date shares this byte, so the pass would not move anything
+            }
+            for (int r = 0; r < RADIX; r++) {
+                count[r + 1] += count[r];
+            }
+            for (int i = lo; i < hi; i++) {
+                aux[count[(column[index[i]] >>> shift) & (RADIX - 1)]++] = index[i];
+            }
+            System.arraycopy(aux, 0, index, lo, n);
+        }
+    }
 
-        // TODO: Compare by birthday
-        // return this.birthday.compareTo(other.birthday);
+    // Helper method to swap two positions of the index permutation
+    private void swap(int i, int j) {
+        int temp = index[i];
+        index[i] = index[j];
+        index[j] = temp;
     }
 }
-
-
-
-
-
@@ -0,0 +1,110 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * GroupBy counts PeopleRecords per distinct combination of SortKey values. The records are
+ * split into one slice per worker; each worker counts its slice into its own MyHashmap and
+ * the partial counts are merged once every worker has finished.
+ */
+class GroupBy {
+    private static final int MIN_SLICE = 10_000; // Smaller inputs are not worth splitting
+
+    private final List<PeopleRecord> records;
+    private final SortKey[] keys;
+    private volatile List<MyHashmap.MapEntry<List<String>, Integer>> groups; // Unmodifiable, computed on first use
+
+    // Constructor
+    public GroupBy(List<PeopleRecord> records, SortKey... keys) {
+        this.records = records;
+        this.keys = keys.clone();
+    }
+
+    /**
+     * Counts the records in every group.
+     *
+     * @return Every group's key values and record count, largest group first, as an unmodifiable list.
+     */
+    public List<MyHashmap.MapEntry<List<String>, Integer>> count() {
+        List<MyHashmap.MapEntry<List<String>, Integer>> result = groups;
+        if (result == null) {
+            result = List.copyOf(aggregate());
+            groups = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the largest groups.
+     *
+     * @param n The number of groups to return.
+     * @return Up to n groups with their record counts, largest group first.
+     */
+    public List<MyHashmap.MapEntry<List<String>, Integer>> topK(int n) {
+        List<MyHashmap.MapEntry<List<String>, Integer>> all = count();
+        return List.copyOf(all.subList(0, Math.max(0, Math.min(n, all.size()))));
+    }
+
+    // Helper method to count every slice in parallel and merge the partial counts
+    private List<MyHashmap.MapEntry<List<String>, Integer>> aggregate() {
+        int size = records.size();
+        int workers = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), size / MIN_SLICE));
+        int sliceSize = (size + workers - 1) / workers;
+
+        List<Future<MyHashmap<List<String>, int[]>>> partials = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            int from = Math.min(size, w * sliceSize);
+            int to = Math.min(size, from + sliceSize);
+            partials.add(ForkJoinPool.commonPool().submit(() -> countSlice(from, to)));
+        }
+
+        MyHashmap<List<String>, int[]> merged = new MyHashmap<>();
+        for (Future<MyHashmap<List<String>, int[]>> partial : partials) {
+            try {
+                for (MyHashmap.MapEntry<List<String>, int[]> entry : partial.get().entrySet()) {
+                    int[] counter = merged.get(entry.getKey());
+                    if (counter == null) {
+                        merged.put(entry.getKey(), entry.getValue());
+                    } else {
+                        counter[0] += entry.getValue()[0];
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while grouping records", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to group records", e.getCause());
+            }
+        }
+
+        List<MyHashmap.MapEntry<List<String>, Integer>> result = new ArrayList<>(merged.size());
+        for (MyHashmap.MapEntry<List<String>, int[]> entry : merged.entrySet()) {
+            result.add(new MyHashmap.MapEntry<>(entry.getKey(), entry.getValue()[0]));
+        }
+        result.sort((o1, o2) -> o2.getValue().compareTo(o1.getValue()));
+        return result;
+    }
+
+    // Helper method to count records[from, to) into a map owned by the calling worker
+    private MyHashmap<List<String>, int[]> countSlice(int from, int to) {
+        MyHashmap<List<String>, int[]> counts = new MyHashmap<>();
+        String[] values = new String[keys.length];
+        List<String> probe = Arrays.asList(values); // Reused lookup key backed by values
+        for (int i = from; i < to; i++) {
+            PeopleRecord record = records.get(i);
+            for (int k = 0; k < keys.length; k++) {
+                values[k] = keys[k].extract(record);
+            }
+            int[] counter = counts.get(probe);
+            if (counter == null) {
+                counts.put(Arrays.asList(values.clone()), new int[] {1});
+            } else {
+                counter[0]++;
+            }
+        }
+        return counts;
+    }
+}
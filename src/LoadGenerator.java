@@ -0,0 +1,103 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LoadGenerator drives a QueryServer with many concurrent clients, one virtual thread each,
+ * cycling through the search, sort and words endpoints. It then reports throughput and the
+ * p50/p99 latencies of the successful requests.
+ */
+public class LoadGenerator {
+    private static final String[] PATHS = {
+            "/search?given=Marcia&family=France",
+            "/sort?keys=STATE,CITY,BIRTHDAY&offset=0&limit=20",
+            "/sort?offset=100&limit=20",
+            "/words?count=5&len=3"
+    };
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final int totalRequests;
+
+    // Constructor
+    public LoadGenerator(String baseUrl, int concurrency, int totalRequests) {
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+        this.totalRequests = totalRequests;
+    }
+
+    /**
+     * Sends totalRequests requests from concurrency clients and prints the results.
+     * Latency percentiles cover only requests answered with 200.
+     */
+    public void run() {
+        long[] latencies = new long[totalRequests]; // Nanoseconds, filled up to succeeded
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        long start = System.nanoTime();
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().executor(clientExecutor).build()) {
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int c = 0; c < concurrency; c++) {
+                    clients.submit(() -> {
+                        int i;
+                        while ((i = next.getAndIncrement()) < totalRequests) {
+                            URI uri = URI.create(baseUrl + PATHS[i % PATHS.length]);
+                            HttpRequest request = HttpRequest.newBuilder(uri).build();
+                            long sent = System.nanoTime();
+                            try {
+                                HttpResponse<byte[]> response =
+                                        client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                                long latency = System.nanoTime() - sent;
+                                if (response.statusCode() == 200) {
+                                    latencies[succeeded.getAndIncrement()] = latency;
+                                } else {
+                                    failures.incrementAndGet();
+                                }
+                            } catch (IOException e) {
+                                failures.incrementAndGet();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                return;
+                            }
+                        }
+                    });
+                }
+            } // Closing the executor waits for every client to finish
+        }
+        long elapsed = System.nanoTime() - start;
+
+        int completed = succeeded.get();
+        Arrays.sort(latencies, 0, completed);
+        System.out.printf("Requests: %d, concurrency: %d, succeeded: %d, failures: %d%n",
+                totalRequests, concurrency, completed, failures.get());
+        System.out.printf("Throughput: %.0f req/s%n", completed / (elapsed / 1e9));
+        System.out.printf("Latency p50: %.2f ms, p99: %.2f ms%n",
+                percentile(latencies, completed, 0.50) / 1e6, percentile(latencies, completed, 0.99) / 1e6);
+    }
+
+    // Helper method to read a percentile from the first count entries of sorted latencies
+    private static long percentile(long[] sorted, int count, double p) {
+        if (count == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.max(0, Math.min(count - 1, Math.ceil(p * count) - 1))];
+    }
+
+    // Main method: LoadGenerator [baseUrl] [concurrency] [requests]
+    public static void main(String[] args) {
+        String baseUrl = args.length > 0 ? args[0] : "http://127.0.0.1:8080";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int totalRequests = args.length > 2 ? Integer.parseInt(args[2]) : 100_000;
+
+        new LoadGenerator(baseUrl, concurrency, totalRequests).run();
+    }
+}
@@ -0,0 +1,180 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MyHashmap is a generic hashmap implementation. It maps keys to values and
+ * provides efficient data retrieval. This class handles collisions using quadratic
+ * (triangular) probing, which visits every slot because the capacity is kept a power
+ * of two, and supports resizing when the load factor threshold is exceeded.
+ */
+@SuppressWarnings("ALL")
+class MyHashmap<K, V> {
+    private static final int DEFAULT_CAPACITY = 16; // Default initial capacity
+    private static final double LOAD_FACTOR_THRESHOLD = 0.75;
+    private MapEntry<K, V>[] entries;
+    private int capacity;
+    private int size;
+
+    // Default constructor
+    @SuppressWarnings("unchecked")
+    public MyHashmap() {
+        this.capacity = DEFAULT_CAPACITY;
+        this.entries = new MapEntry[DEFAULT_CAPACITY];
+        this.size = 0;
+    }
+
+    // Constructor with specified initial capacity, rounded up to a power of two
+    @SuppressWarnings("unchecked")
+    public MyHashmap(int capacity) {
+        this.capacity = Math.max(1, Integer.highestOneBit(Math.max(1, capacity - 1)) << 1);
+        this.entries = new MapEntry[this.capacity];
+        this.size = 0;
+    }
+
+    // Method to add a PeopleRecord to the hashmap
+    public void put(K key, V value) {
+        if ((double) size / capacity >= LOAD_FACTOR_THRESHOLD) {
+            resize();
+        }
+
+        int index = getHashIndex(key);
+        int i = 1;
+
+        while (true) {
+            if (entries[index] == null || entries[index].key == null) {
+                entries[index] = new MapEntry<>(key, value);
+                size++;
+                return;
+            } else if (entries[index].key.equals(key)) {
+                // Replace existing value
+                entries[index].value = value;
+                return;
+            }
+
+            index = (index + i) % capacity; // Quadratic probing: offsets 1, 3, 6, 10, ...
+            i++;
+
+            if (i > capacity) {
+                // This should not happen if resizing works correctly
+                throw new RuntimeException("Hashmap full, cannot insert new key: " + key);
+            }
+        }
+    }
+
+    // Method to get a PeopleRecord by key (e.g., family name)
+    public V get(K key) {
+        int index = getHashIndex(key);
+        int i = 1;
+
+        while (entries[index] != null) {
+            if (entries[index].key != null && entries[index].key.equals(key)) {
+                return entries[index].value;
+            }
+            index = (index + i) % capacity; // Quadratic probing: offsets 1, 3, 6, 10, ...
+            i++;
+            if (i > capacity) {
+                break; // Every slot has been probed
+            }
+        }
+
+        return null; // Not found
+    }
+
+    // Method to delete a PeopleRecord by key
+    public void delete(K key) {
+        int index = getHashIndex(key);
+        int i = 1;
+
+        while (entries[index] != null) {
+            if (entries[index].key != null && entries[index].key.equals(key)) {
+                entries[index] = new MapEntry<>(null, null); // Mark as deleted
+                size--;
+                return;
+            }
+            index = (index + i) % capacity; // Quadratic probing: offsets 1, 3, 6, 10, ...
+            i++;
+            if (i > capacity) {
+                break; // Every slot has been probed
+            }
+        }
+    }
+
+    // Method to resize
+    @SuppressWarnings("unchecked")
+    private void resize() {
+        int newCapacity = capacity * 2;
+        MapEntry<K, V>[] newEntries = (MapEntry<K, V>[]) new MapEntry[newCapacity];
+
+        for (MapEntry<K, V> entry : entries) {
+            if (entry != null && entry.key != null) {
+                int index = getHashIndex(entry.key, newCapacity);
+                int i = 1;
+                while (newEntries[index] != null) {
+                    index = (index + i) % newCapacity; // Same quadratic probing as put and get
+                    i++;
+                }
+                newEntries[index] = entry;
+            }
+        }
+
+        entries = newEntries;
+        capacity = newCapacity;
+    }
+
+    // Method to compute the hash index
+    private int getHashIndex(K key) {
+        return getHashIndex(key, capacity);
+    }
+
+    // Helper method to compute the hash index for a given capacity, mixing the high bits into the low ones
+    private static int getHashIndex(Object key, int capacity) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return (hash & 0x7fffffff) % capacity;
+    }
+
+    // Method to check the number of records in the hashmap
+    public int size() {
+        return size;
+    }
+
+    // Method to get entry set
+    public List<MapEntry<K, V>> entrySet() {
+        List<MapEntry<K, V>> entryList = new ArrayList<>();
+        for (MapEntry<K, V> entry : entries) {
+            if (entry != null && entry.getKey() != null) {
+                entryList.add(entry);
+            }
+        }
+        return entryList;
+    }
+
+    // Method to get value with default
+    public V getOrDefault(K key, V defaultValue) {
+        V value = get(key);
+        return (value != null) ? value : defaultValue;
+    }
+
+    static class MapEntry<K, V> {
+        K key;
+        V value;
+
+        MapEntry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * PeopleRecord represents a record of an individual's personal and contact information.
+ * It includes details like name, address, phone numbers, and email. This class
+ * implements Comparable to allow sorting based on specified criteria.
+ */
+@SuppressWarnings("ALL")
+class PeopleRecord implements Comparable<PeopleRecord> {
+    // Attributes
+    private String givenName;
+    private String familyName;
+    private String companyName;
+    private String address;
+    private String city;
+    private String county;
+    private String state;
+    private String zip;
+    private String phone1;
+    private String phone2;
+    private String email;
+    private String web;
+    private String birthday;
+
+    // References to child nodes in the tree
+    PeopleRecord left;
+    PeopleRecord right;
+
+    // Constructor
+    public PeopleRecord(String givenName, String familyName, String companyName,
+                        String address, String city, String county, String state,
+                        String zip, String phone1, String phone2, String email,
+                        String web, String birthday) {
+        this.givenName = givenName;
+        this.familyName = familyName;
+        this.companyName = companyName;
+        this.address = address;
+        this.city = city;
+        this.county = county;
+        this.state = state;
+        this.zip = zip;
+        this.phone1 = phone1;
+        this.phone2 = phone2;
+        this.email = email;
+        this.web = web;
+        this.birthday = birthday;
+        this.left = null;
+        this.right = null;
+    }
+
+    // Getters and Setters
+    public String getGivenName() { return givenName; }
+    public void setGivenName(String givenName) { this.givenName = givenName; }
+
+    public String getFamilyName() { return familyName; }
+    public void setFamilyName(String familyName) { this.familyName = familyName; }
+
+    public String getCompanyName() { return companyName; }
+    public void setCompanyName(String companyName) { this.companyName = companyName; }
+
+    public String getAddress() { return address; }
+    public void setAddress(String address) { this.address = address; }
+
+    public String getCity() { return city; }
+    public void setCity(String city) { this.city = city; }
+
+    public String getCounty() { return county; }
+    public void setCounty(String county) { this.county = county; }
+
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+
+    public String getZip() { return zip; }
+    public void setZip(String zip) { this.zip = zip; }
+
+    public String getPhone1() { return phone1; }
+    public void setPhone1(String phone1) { this.phone1 = phone1; }
+
+    public String getPhone2() { return phone2; }
+    public void setPhone2(String phone2) { this.phone2 = phone2; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getWeb() { return web; }
+    public void setWeb(String web) { this.web = web; }
+
+    public String getBirthday() { return birthday; }
+    public void setBirthday(String birthday) { this.birthday = birthday; }
+
+    // toString Method
+    @Override
+    public String toString() {
+        return "PeopleRecord{" +
+                "givenName='" + givenName + '\'' +
+                ", familyName='" + familyName + '\'' +
+                ", companyName='" + companyName + '\'' +
+                ", address='" + address + '\'' +
+                ", city='" + city + '\'' +
+                ", county='" + county + '\'' +
+                ", state='" + state + '\'' +
+                ", zip='" + zip + '\'' +
+                ", phone1='" + phone1 + '\'' +
+                ", phone2='" + phone2 + '\'' +
+                ", email='" + email + '\'' +
+                ", web='" + web + '\'' +
+                ", birthday='" + birthday + '\'' +
+                '}';
+    }
+
+    /**
+     * Compares this PeopleRecord with another PeopleRecord for order.
+     * Ordering is primarily based on the family name, then given name, and finally birthday.
+     *
+     * @param other The PeopleRecord to be compared.
+     * @return A negative integer, zero, or a positive integer as this object
+     *         is less than, equal to, or greater than the specified object.
+     */
+    @Override
+    public int compareTo(PeopleRecord other) {
+        int lastNameComparison = this.familyName.compareTo(other.familyName);
+        if (lastNameComparison == 0) {
+            // Use another field for secondary comparison if family names are the same
+            int givenNameComparison = this.givenName.compareTo(other.givenName);
+            if (givenNameComparison == 0) {
+                return this.birthday.compareTo(other.birthday);
+            }
+            return givenNameComparison;
+        }
+        return lastNameComparison;
+
+        // TODO: Compare by birthday
+        // return this.birthday.compareTo(other.birthday);
+    }
+}
@@ -0,0 +1,298 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+
+/**
+ * QueryServer loads people.txt into a DatabaseProcessing once and answers queries over
+ * HTTP on the loopback interface, handling each request on its own virtual thread.
+ * Responses are plain text in the same ';'-separated layout as people.txt, one
+ * record (or word;count pair) per line. Word counts are taken once at startup, and
+ * the most recently used sort and group results are kept in small LRU caches.
+ *
+ * <pre>
+ * GET /search?given=Marcia&amp;family=France
+ * GET /sort?keys=STATE,CITY,BIRTHDAY&amp;offset=0&amp;limit=20   (total in X-Total-Count)
+ * GET /words?count=5&amp;len=3
+ * GET /groupBy?keys=STATE,COUNTY&amp;top=10
+ * </pre>
+ */
+public class QueryServer {
+    private static final SortKey[] DEFAULT_SORT = {SortKey.FAMILY_NAME, SortKey.GIVEN_NAME, SortKey.BIRTHDAY};
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int BACKLOG = 1024; // Pending connections queued by the OS
+    private static final int MIN_WORD_LENGTH = 3; // Shortest length getMostFrequentWords accepts
+    private static final int SORT_CACHE_SIZE = 8; // Each entry holds every record, so keep few
+    private static final int GROUP_CACHE_SIZE = 64;
+
+    private final DatabaseProcessing db;
+    private final Map<String, List<PeopleRecord>> sortCache; // Sorted records by key spec, shared by all pages
+    private final Map<String, GroupBy> groupCache; // Group counts by key spec
+    private final List<MyHashmap.MapEntry<String, Integer>> rankedWords; // Counted once, most frequent first
+    private HttpServer server;
+
+    // Constructor
+    public QueryServer(String filePath) throws FileNotFoundException {
+        this.db = new DatabaseProcessing();
+        this.sortCache = lruCache(SORT_CACHE_SIZE);
+        this.groupCache = lruCache(GROUP_CACHE_SIZE);
+        db.setFilePath(filePath);
+        db.loadData(filePath);
+        try {
+            this.rankedWords = List.copyOf(db.getMostFrequentWords(filePath, Integer.MAX_VALUE, MIN_WORD_LENGTH));
+        } catch (DatabaseProcessing.ShortLengthException e) {
+            throw new IllegalStateException("MIN_WORD_LENGTH is below the accepted minimum", e);
+        }
+    }
+
+    /**
+     * Starts serving on the loopback interface.
+     *
+     * @param port The port to listen on, or 0 for any free port.
+     * @return The port actually bound.
+     * @throws IOException if the server socket cannot be opened.
+     */
+    public int start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        server.createContext("/search", exchange -> handle(exchange, this::search));
+        server.createContext("/sort", exchange -> handle(exchange, this::sort));
+        server.createContext("/words", exchange -> handle(exchange, this::words));
+        server.createContext("/groupBy", exchange -> handle(exchange, this::groupBy));
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return server.getAddress().getPort();
+    }
+
+    // Method to stop the server, waiting up to the given number of seconds for open exchanges
+    public void stop(int delaySeconds) {
+        if (server != null) {
+            server.stop(delaySeconds);
+        }
+    }
+
+    // Handler for /search: records matching both given and family name
+    private String search(Map<String, String> params, HttpExchange exchange) {
+        List<PeopleRecord> matches = db.search(required(params, "given"), required(params, "family"));
+        StringBuilder body = new StringBuilder();
+        for (PeopleRecord record : matches) {
+            appendRecord(body, record);
+        }
+        return body.toString();
+    }
+
+    // Handler for /sort: one page of the records ordered by the requested keys
+    private String sort(Map<String, String> params, HttpExchange exchange) {
+        SortKey[] keys = params.containsKey("keys") ? parseKeys(params.get("keys")) : DEFAULT_SORT;
+        int offset = intParam(params, "offset", 0);
+        int limit = intParam(params, "limit", DEFAULT_LIMIT);
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset and limit must not be negative");
+        }
+
+        String spec = Arrays.toString(keys);
+        List<PeopleRecord> sorted = sortCache.get(spec);
+        if (sorted == null) {
+            sorted = db.sort(keys); // Sorted outside the cache lock so other requests are not held up
+            sortCache.putIfAbsent(spec, sorted);
+        }
+        exchange.getResponseHeaders().set("X-Total-Count", Integer.toString(sorted.size()));
+
+        StringBuilder body = new StringBuilder();
+        int end = (int) Math.min(sorted.size(), (long) offset + limit);
+        for (int i = offset; i < end; i++) {
+            appendRecord(body, sorted.get(i));
+        }
+        return body.toString();
+    }
+
+    // Handler for /words: the most frequent words of at least len letters, filtered from the startup ranking
+    private String words(Map<String, String> params, HttpExchange exchange)
+            throws DatabaseProcessing.ShortLengthException {
+        int count = intParam(params, "count", 5);
+        int len = intParam(params, "len", MIN_WORD_LENGTH);
+        if (len < MIN_WORD_LENGTH) {
+            throw new DatabaseProcessing.ShortLengthException("Length is less than " + MIN_WORD_LENGTH);
+        }
+
+        StringBuilder body = new StringBuilder();
+        int written = 0;
+        for (int i = 0; i < rankedWords.size() && written < count; i++) {
+            MyHashmap.MapEntry<String, Integer> word = rankedWords.get(i);
+            if (word.getKey().length() >= len) {
+                body.append(word.getKey()).append(';').append(word.getValue()).append('\n');
+                written++;
+            }
+        }
+        return body.toString();
+    }
+
+    // Handler for /groupBy: record counts of the largest groups, each line being the key values then the count
+    private String groupBy(Map<String, String> params, HttpExchange exchange) {
+        SortKey[] keys = parseKeys(required(params, "keys"));
+        int top = intParam(params, "top", Integer.MAX_VALUE);
+
+        String spec = Arrays.toString(keys);
+        GroupBy groups = groupCache.get(spec);
+        if (groups == null) {
+            groups = db.groupBy(keys);
+            GroupBy cached = groupCache.putIfAbsent(spec, groups);
+            if (cached != null) {
+                groups = cached; // Share the instance that will hold the counts
+            }
+        }
+
+        StringBuilder body = new StringBuilder();
+        for (MyHashmap.MapEntry<List<String>, Integer> group : groups.topK(top)) {
+            body.append(String.join(";", group.getKey())).append(';').append(group.getValue()).append('\n');
+        }
+        return body.toString();
+    }
+
+    // Helper method to run a handler and send its result, mapping bad input to 400 and other failures to 500
+    private void handle(HttpExchange exchange, Handler handler) throws IOException {
+        int status = 200;
+        String body;
+        try {
+            if (!exchange.getRequestURI().getPath().equals(exchange.getHttpContext().getPath())) {
+                status = 404; // Contexts match by prefix, so /sortx would otherwise reach /sort
+                body = "Not found\n";
+            } else if (!"GET".equals(exchange.getRequestMethod())) {
+                status = 405;
+                body = "Only GET is supported\n";
+            } else {
+                body = handler.handle(parseQuery(exchange.getRequestURI().getRawQuery()), exchange);
+            }
+        } catch (IllegalArgumentException | DatabaseProcessing.ShortLengthException e) {
+            status = 400;
+            body = e.getMessage() + "\n";
+        } catch (Exception e) {
+            status = 500;
+            body = "Internal error: " + e.getMessage() + "\n";
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    // Helper method to write a record as one line in the people.txt layout
+    private static void appendRecord(StringBuilder body, PeopleRecord record) {
+        body.append(record.getGivenName()).append(';')
+                .append(record.getFamilyName()).append(';')
+                .append(record.getCompanyName()).append(';')
+                .append(record.getAddress()).append(';')
+                .append(record.getCity()).append(';')
+                .append(record.getCounty()).append(';')
+                .append(record.getState()).append(';')
+                .append(record.getZip()).append(';')
+                .append(record.getPhone1()).append(';')
+                .append(record.getPhone2()).append(';')
+                .append(record.getEmail()).append(';')
+                .append(record.getWeb()).append(';')
+                .append(record.getBirthday()).append('\n');
+    }
+
+    // Helper method to parse a comma-separated list of distinct SortKey names
+    private static SortKey[] parseKeys(String spec) {
+        List<SortKey> keys = new ArrayList<>();
+        Set<SortKey> seen = EnumSet.noneOf(SortKey.class);
+        for (String name : spec.split(",")) {
+            SortKey key = SortKey.valueOf(name.trim().toUpperCase()); // Throws IllegalArgumentException if unknown
+            if (!seen.add(key)) {
+                throw new IllegalArgumentException("Duplicate key: " + key);
+            }
+            keys.add(key);
+        }
+        return keys.toArray(new SortKey[0]);
+    }
+
+    // Helper method to create a thread-safe map that evicts its least recently used entry beyond maxSize
+    private static <K, V> Map<K, V> lruCache(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    // Helper method to decode a query string into its parameters
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    // Helper method to read a parameter that must be present
+    private static String required(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing parameter: " + name);
+        }
+        return value;
+    }
+
+    // Helper method to read an integer parameter with a default
+    private static int intParam(Map<String, String> params, String name, int defaultValue) {
+        String value = params.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parameter " + name + " is not an integer: " + value);
+        }
+    }
+
+    /**
+     * Handler computes the response body for one endpoint from the decoded query parameters.
+     */
+    @FunctionalInterface
+    private interface Handler {
+        String handle(Map<String, String> params, HttpExchange exchange) throws Exception;
+    }
+
+    // Main method: QueryServer [port] [file]
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        String file = args.length > 1 ? args[1] : "resources/people.txt";
+
+        try {
+            QueryServer queryServer = new QueryServer(file);
+            int boundPort = queryServer.start(port);
+            System.out.println("Serving " + file + " on http://127.0.0.1:" + boundPort);
+        } catch (FileNotFoundException e) {
+            System.err.println("File not found: " + e.getMessage());
+        } catch (IOException e) {
+            System.err.println("Could not start server: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+import java.util.function.Function;
+
+/**
+ * SortKey names a PeopleRecord field that records can be sorted or grouped by. String fields
+ * are ordered lexicographically; BIRTHDAY is ordered chronologically by packing its
+ * MM/dd/yyyy value into a yyyymmdd integer. EMAIL_DOMAIN and BIRTH_DECADE are derived
+ * from the email and birthday fields.
+ */
+enum SortKey {
+    GIVEN_NAME(PeopleRecord::getGivenName),
+    FAMILY_NAME(PeopleRecord::getFamilyName),
+    COMPANY_NAME(PeopleRecord::getCompanyName),
+    ADDRESS(PeopleRecord::getAddress),
+    CITY(PeopleRecord::getCity),
+    COUNTY(PeopleRecord::getCounty),
+    STATE(PeopleRecord::getState),
+    ZIP(PeopleRecord::getZip),
+    PHONE1(PeopleRecord::getPhone1),
+    PHONE2(PeopleRecord::getPhone2),
+    EMAIL(PeopleRecord::getEmail),
+    WEB(PeopleRecord::getWeb),
+    BIRTHDAY(PeopleRecord::getBirthday),
+    EMAIL_DOMAIN(record -> emailDomain(record.getEmail())),
+    BIRTH_DECADE(record -> birthDecade(record.getBirthday()));
+
+    private final Function<PeopleRecord, String> field;
+
+    SortKey(Function<PeopleRecord, String> field) {
+        this.field = field;
+    }
+
+    // Method to read this key's field from a record
+    public String extract(PeopleRecord record) {
+        return field.apply(record);
+    }
+
+    // Method to check whether this key is sorted as a packed date
+    public boolean isDate() {
+        return this == BIRTHDAY;
+    }
+
+    // Method to pack an MM/dd/yyyy date into yyyymmdd; malformed dates pack to 0 and sort first
+    static int packDate(String date) {
+        if (date == null || date.length() < 10 || date.charAt(2) != '/' || date.charAt(5) != '/') {
+            return 0;
+        }
+        int month = digits(date, 0, 2);
+        int day = digits(date, 3, 5);
+        int year = digits(date, 6, 10);
+        if (month < 0 || day < 0 || year < 0) {
+            return 0;
+        }
+        return year * 10000 + month * 100 + day;
+    }
+
+    // Method to read the lower-cased domain of an email address, or "" if there is none
+    static String emailDomain(String email) {
+        int at = email == null ? -1 : email.lastIndexOf('@');
+        return at < 0 ? "" : email.substring(at + 1).toLowerCase();
+    }
+
+    // Method to read the decade of an MM/dd/yyyy date, e.g. "1960s", or "" if it is malformed
+    static String birthDecade(String date) {
+        int packed = packDate(date);
+        return packed == 0 ? "" : (packed / 100000 * 10) + "s";
+    }
+
+    // Helper method to parse a run of decimal digits, or -1 if any character is not a digit
+    private static int digits(String s, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}